@@ -0,0 +1,110 @@
+package com.bfhl.api.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * End-to-end load test: boots the app against a local Gemini stub, offers an
+ * open-model request mix and fails if latency or goodput regress past the
+ * baseline stored for that profile. Disabled (reported as skipped) in the
+ * default build; {@code ./mvnw -Ploadtest test} runs only this class.
+ */
+@Slf4j
+@Tag("loadtest")
+@EnabledIfSystemProperty(named = "loadtest.enabled", matches = "true")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "logging.level.com.bfhl.api=WARN",
+                "logging.level.com.bfhl.api.loadtest=INFO"
+        }
+)
+class BfhlLoadTest {
+
+    private static final LoadProfile PROFILE = LoadProfile.fromSystemProperties();
+
+    private static final GeminiStub STUB = GeminiStub.start(
+            PROFILE.getStubLatencyMillis(), PROFILE.getStubJitterMillis(), PROFILE.getStubErrorRate());
+
+    private static final Path BASELINE_DIR =
+            Path.of(System.getProperty("loadtest.baseline-dir", "src/test/resources/loadtest"));
+
+    private static final double TOLERANCE = Double.parseDouble(System.getProperty("loadtest.tolerance", "0.30"));
+
+    private static final long SLACK_MICROS = Long.parseLong(System.getProperty("loadtest.slack-micros", "2000"));
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void wireStub(DynamicPropertyRegistry registry) {
+        registry.add("gemini.api.url", STUB::url);
+        registry.add("gemini.api.key", () -> "loadtest");
+        registry.add("ratelimit.requests-per-minute", PROFILE::getRateLimitPerMinute);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.close();
+    }
+
+    @Test
+    void latencyAndGoodputWithinBaseline() {
+        String fingerprint = PROFILE.fingerprint();
+        Path baselineFile = LatencyBaseline.fileFor(BASELINE_DIR, fingerprint);
+        boolean update = Boolean.getBoolean("loadtest.baseline.update");
+        log.info("Load profile: {} (baseline {})", fingerprint, baselineFile);
+
+        // Checked before generating load so a missing baseline fails in seconds, not after the full run
+        LatencyBaseline baseline = null;
+        if (!update) {
+            baseline = LatencyBaseline.load(baselineFile);
+            assertNotNull(baseline, "No baseline for profile [" + fingerprint + "] at " + baselineFile
+                    + " — record one with -Dloadtest.baseline.update=true");
+            assertEquals(fingerprint, baseline.getProfile(),
+                    "Baseline " + baselineFile + " was recorded for a different profile"
+                            + " — re-record with -Dloadtest.baseline.update=true");
+        }
+
+        OpenLoopLoadGenerator generator =
+                new OpenLoopLoadGenerator(URI.create("http://localhost:" + port + "/bfhl"), PROFILE);
+        if (!PROFILE.getWarmup().isZero()) {
+            log.info("Warm-up:{}", generator.run(PROFILE.getWarmup()).summary());
+        }
+        long injectedBefore = STUB.injectedErrors();
+        LoadReport report = generator.run(PROFILE.getDuration());
+        long injected = STUB.injectedErrors() - injectedBefore;
+        log.info("Measured:{}", report.summary());
+
+        assertEquals(0, report.unexpectedFailures(injected),
+                "Requests failed with an unexpected status, transport error or 503 not injected by the stub ("
+                        + report.getServiceUnavailable() + " 503s, " + injected + " injected)");
+        assertEquals(injected, report.getServiceUnavailable(),
+                "Every error injected by the Gemini stub should surface as one 503");
+
+        LatencyBaseline current = LatencyBaseline.from(PROFILE, report);
+        if (update) {
+            current.store(baselineFile);
+            log.info("Baseline written to {}", baselineFile.toAbsolutePath());
+            return;
+        }
+
+        List<String> regressions = baseline.regressions(current, TOLERANCE, SLACK_MICROS);
+        assertTrue(regressions.isEmpty(), "Load-test regression: " + String.join("; ", regressions));
+    }
+}
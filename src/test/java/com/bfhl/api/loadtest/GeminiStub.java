@@ -0,0 +1,118 @@
+package com.bfhl.api.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local stand-in for the Gemini {@code generateContent} endpoint.
+ * Answers every POST after a configurable delay, failing a configurable
+ * fraction of calls with a 500 so the AI path sees realistic upstream errors.
+ */
+@Slf4j
+public class GeminiStub implements AutoCloseable {
+
+    private static final String ANSWER_JSON =
+            "{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"Mumbai\"}],\"role\":\"model\"}}]}";
+
+    private static final String ERROR_JSON =
+            "{\"error\":{\"code\":500,\"message\":\"Stubbed upstream failure\",\"status\":\"INTERNAL\"}}";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long latencyMillis;
+    private final long jitterMillis;
+    private final double errorRate;
+    private final AtomicLong injectedErrors = new AtomicLong();
+
+    private GeminiStub(long latencyMillis, long jitterMillis, double errorRate) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.jitterMillis = jitterMillis;
+        this.errorRate = errorRate;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.executor = Executors.newCachedThreadPool();
+        this.server.setExecutor(executor);
+        this.server.createContext("/", this::handle);
+    }
+
+    /**
+     * Starts a stub on an ephemeral loopback port.
+     *
+     * @param latencyMillis base delay before each response
+     * @param jitterMillis  upper bound of uniform extra delay added to the base
+     * @param errorRate     fraction of calls (0.0–1.0) answered with HTTP 500
+     */
+    public static GeminiStub start(long latencyMillis, long jitterMillis, double errorRate) {
+        try {
+            GeminiStub stub = new GeminiStub(latencyMillis, jitterMillis, errorRate);
+            stub.server.start();
+            log.info("Gemini stub listening on {} (latency={}ms, jitter={}ms, errorRate={})",
+                    stub.url(), latencyMillis, jitterMillis, errorRate);
+            return stub;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to start Gemini stub", e);
+        }
+    }
+
+    /**
+     * Value for {@code gemini.api.url}; the service appends {@code ?key=...} itself.
+     */
+    public String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort()
+                + "/v1beta/models/gemini-stub:generateContent";
+    }
+
+    /**
+     * Number of 500s injected so far. Each one should surface as exactly one
+     * 503 from POST /bfhl; any other 503 is a real failure.
+     */
+    public long injectedErrors() {
+        return injectedErrors.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    // ─── Private helpers ───
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            exchange.getRequestBody().readAllBytes();
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+
+            long delay = latencyMillis + (jitterMillis > 0 ? random.nextLong(jitterMillis + 1) : 0);
+            if (delay > 0) {
+                TimeUnit.MILLISECONDS.sleep(delay);
+            }
+
+            boolean fail = random.nextDouble() < errorRate;
+            if (fail) {
+                injectedErrors.incrementAndGet();
+            }
+            byte[] body = (fail ? ERROR_JSON : ANSWER_JSON).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(fail ? 500 : 200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.bfhl.api.loadtest;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * Stored reference numbers for a {@link LoadProfile}, persisted as one
+ * properties file per profile so that changes to it show up in review like
+ * any other diff.
+ */
+@Value
+@Builder
+public class LatencyBaseline {
+
+    String profile;
+
+    long p50Micros;
+
+    long p99Micros;
+
+    long p999Micros;
+
+    /** Successful responses per second. */
+    double goodput;
+
+    public static LatencyBaseline from(LoadProfile profile, LoadReport report) {
+        return LatencyBaseline.builder()
+                .profile(profile.fingerprint())
+                .p50Micros(report.p50())
+                .p99Micros(report.p99())
+                .p999Micros(report.p999())
+                .goodput(report.goodput())
+                .build();
+    }
+
+    /**
+     * Baseline file for a profile fingerprint. Keying by fingerprint means a run
+     * with overridden knobs is gated against numbers recorded for those knobs.
+     */
+    public static Path fileFor(Path dir, String fingerprint) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(fingerprint.getBytes(StandardCharsets.UTF_8));
+            return dir.resolve("baseline-" + HexFormat.of().formatHex(digest, 0, 6) + ".properties");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * @return the stored baseline, or {@code null} if the file does not exist
+     */
+    public static LatencyBaseline load(Path file) {
+        if (!Files.exists(file)) {
+            return null;
+        }
+        Properties props = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            props.load(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read load-test baseline " + file, e);
+        }
+        return LatencyBaseline.builder()
+                .profile(required(props, "profile", file))
+                .p50Micros(Long.parseLong(required(props, "p50.micros", file)))
+                .p99Micros(Long.parseLong(required(props, "p99.micros", file)))
+                .p999Micros(Long.parseLong(required(props, "p999.micros", file)))
+                .goodput(Double.parseDouble(required(props, "goodput.rps", file)))
+                .build();
+    }
+
+    /**
+     * Writes the keys in a fixed order and without the timestamp
+     * {@link Properties#store} adds, so re-recording unchanged numbers
+     * leaves the file byte-for-byte identical.
+     */
+    public void store(Path file) {
+        List<String> lines = List.of(
+                "# Load-test baseline — regenerate with -Dloadtest.baseline.update=true",
+                "profile=" + profile,
+                "p50.micros=" + p50Micros,
+                "p99.micros=" + p99Micros,
+                "p999.micros=" + p999Micros,
+                "goodput.rps=" + String.format(Locale.ROOT, "%.1f", goodput));
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Files.write(file, lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write load-test baseline " + file, e);
+        }
+    }
+
+    /**
+     * Compares a run, summarised via {@link #from}, against this baseline. A latency percentile regresses when it
+     * exceeds {@code baseline * (1 + tolerance) + slackMicros}; the absolute slack
+     * keeps sub-millisecond percentiles from failing on scheduler noise.
+     *
+     * @return human-readable descriptions of every regression; empty if none
+     */
+    public List<String> regressions(LatencyBaseline current, double tolerance, long slackMicros) {
+        List<String> regressions = new ArrayList<>();
+        checkLatency(regressions, "p50", p50Micros, current.p50Micros, tolerance, slackMicros);
+        checkLatency(regressions, "p99", p99Micros, current.p99Micros, tolerance, slackMicros);
+        checkLatency(regressions, "p999", p999Micros, current.p999Micros, tolerance, slackMicros);
+
+        double minGoodput = goodput * (1 - tolerance);
+        if (current.goodput < minGoodput) {
+            regressions.add(String.format(Locale.ROOT,
+                    "goodput %.1f req/s is below baseline %.1f req/s (limit %.1f)",
+                    current.goodput, goodput, minGoodput));
+        }
+        return regressions;
+    }
+
+    // ─── Private helpers ───
+
+    private static String required(Properties props, String key, Path file) {
+        String value = props.getProperty(key);
+        if (value == null || value.isBlank()) {
+            throw new IllegalStateException("Load-test baseline " + file + " is missing required key: " + key);
+        }
+        return value.trim();
+    }
+
+    private static void checkLatency(List<String> regressions, String label,
+                                     long baselineMicros, long actualMicros,
+                                     double tolerance, long slackMicros) {
+        long limit = (long) (baselineMicros * (1 + tolerance)) + slackMicros;
+        if (actualMicros > limit) {
+            regressions.add(String.format(Locale.ROOT,
+                    "%s %.2fms exceeds baseline %.2fms (limit %.2fms)",
+                    label, actualMicros / 1000.0, baselineMicros / 1000.0, limit / 1000.0));
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.bfhl.api.loadtest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyBaselineTest {
+
+    private static final double TOLERANCE = 0.5;
+    private static final long SLACK_MICROS = 2_000;
+
+    private static final LatencyBaseline BASELINE = baseline(1_000, 10_000, 20_000, 200.0);
+
+    @Test
+    void latencyAtToleranceAndSlackLimitPasses() {
+        // limit = baseline * 1.5 + 2000µs
+        LatencyBaseline current = baseline(3_500, 17_000, 32_000, 200.0);
+
+        assertTrue(BASELINE.regressions(current, TOLERANCE, SLACK_MICROS).isEmpty());
+    }
+
+    @Test
+    void latencyPastLimitIsReported() {
+        LatencyBaseline current = baseline(3_501, 17_000, 32_001, 200.0);
+
+        List<String> regressions = BASELINE.regressions(current, TOLERANCE, SLACK_MICROS);
+
+        assertEquals(2, regressions.size());
+        assertTrue(regressions.get(0).startsWith("p50"));
+        assertTrue(regressions.get(1).startsWith("p999"));
+    }
+
+    @Test
+    void slackAbsorbsSmallAbsoluteIncrease() {
+        LatencyBaseline current = baseline(2_900, 10_000, 20_000, 200.0);
+
+        assertTrue(BASELINE.regressions(current, 0.0, SLACK_MICROS).isEmpty());
+        assertEquals(1, BASELINE.regressions(current, 0.0, 0).size());
+    }
+
+    @Test
+    void goodputAtFloorPasses() {
+        LatencyBaseline current = baseline(1_000, 10_000, 20_000, 100.0);
+
+        assertTrue(BASELINE.regressions(current, TOLERANCE, SLACK_MICROS).isEmpty());
+    }
+
+    @Test
+    void goodputBelowFloorIsReported() {
+        LatencyBaseline current = baseline(1_000, 10_000, 20_000, 99.9);
+
+        List<String> regressions = BASELINE.regressions(current, TOLERANCE, SLACK_MICROS);
+
+        assertEquals(1, regressions.size());
+        assertTrue(regressions.get(0).startsWith("goodput"));
+    }
+
+    @Test
+    void storeAndLoadRoundTrip(@TempDir Path dir) {
+        Path file = dir.resolve("baseline.properties");
+
+        BASELINE.store(file);
+
+        assertEquals(BASELINE, LatencyBaseline.load(file));
+    }
+
+    @Test
+    void storeIsDeterministic(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("baseline.properties");
+
+        BASELINE.store(file);
+        List<String> first = Files.readAllLines(file);
+        BASELINE.store(file);
+
+        assertEquals(first, Files.readAllLines(file));
+        assertEquals(List.of(
+                "# Load-test baseline — regenerate with -Dloadtest.baseline.update=true",
+                "profile=test",
+                "p50.micros=1000",
+                "p99.micros=10000",
+                "p999.micros=20000",
+                "goodput.rps=200.0"), first);
+    }
+
+    @Test
+    void loadReturnsNullWhenFileIsAbsent(@TempDir Path dir) {
+        assertNull(LatencyBaseline.load(dir.resolve("missing.properties")));
+    }
+
+    @Test
+    void loadRejectsMissingKey(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("baseline.properties");
+        Files.writeString(file, "profile=x\np50.micros=1\np999.micros=3\ngoodput.rps=1.0\n");
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class, () -> LatencyBaseline.load(file));
+
+        assertTrue(ex.getMessage().contains("p99.micros"));
+        assertTrue(ex.getMessage().contains(file.toString()));
+    }
+
+    @Test
+    void fileForIsStablePerProfile() {
+        Path dir = Path.of("baselines");
+
+        assertEquals(LatencyBaseline.fileFor(dir, "rate=200.0"), LatencyBaseline.fileFor(dir, "rate=200.0"));
+        assertNotEquals(LatencyBaseline.fileFor(dir, "rate=200.0"), LatencyBaseline.fileFor(dir, "rate=500.0"));
+        assertEquals(dir, LatencyBaseline.fileFor(dir, "rate=200.0").getParent());
+    }
+
+    // ─── Private helpers ───
+
+    private static LatencyBaseline baseline(long p50, long p99, long p999, double goodput) {
+        return LatencyBaseline.builder()
+                .profile("test")
+                .p50Micros(p50)
+                .p99Micros(p99)
+                .p999Micros(p999)
+                .goodput(goodput)
+                .build();
+    }
+}
@@ -0,0 +1,143 @@
+package com.bfhl.api.loadtest;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Knobs for a load-test run, read from {@code -Dloadtest.*} system properties
+ * so they can be overridden from the Maven command line. Every knob is
+ * validated when the profile is built, before any load is generated.
+ */
+@Value
+public class LoadProfile {
+
+    /**
+     * Upper bound for {@link #clients}. {@code RateLimitFilter} caches at most 10,000
+     * buckets, so beyond that evicted clients get fresh buckets and the
+     * per-client limit is no longer exercised faithfully.
+     */
+    static final int MAX_CLIENTS = 10_000;
+
+    /** Target arrival rate in requests per second (open model — independent of response times). */
+    double ratePerSecond;
+
+    Duration warmup;
+
+    Duration duration;
+
+    /** Relative weight of each {@link Operation} in the request mix, in declaration order. */
+    Map<Operation, Integer> mix;
+
+    /** Number of distinct client IPs (sent as X-Forwarded-For) the load is spread across. */
+    int clients;
+
+    /** Value for {@code ratelimit.requests-per-minute} on the app under test. */
+    int rateLimitPerMinute;
+
+    long stubLatencyMillis;
+
+    long stubJitterMillis;
+
+    double stubErrorRate;
+
+    @Builder(toBuilder = true)
+    private LoadProfile(double ratePerSecond, Duration warmup, Duration duration, Map<Operation, Integer> mix,
+                        int clients, int rateLimitPerMinute, long stubLatencyMillis, long stubJitterMillis,
+                        double stubErrorRate) {
+        require(ratePerSecond > 0, "loadtest.rate must be positive, got: " + ratePerSecond);
+        require(warmup != null && !warmup.isNegative(),
+                "loadtest.warmup-seconds must be non-negative, got: " + warmup);
+        require(duration != null && !duration.isNegative() && !duration.isZero(),
+                "loadtest.duration-seconds must be positive, got: " + duration);
+        require(ratePerSecond * duration.toNanos() / 1e9 >= 1,
+                "loadtest.rate and loadtest.duration-seconds must yield at least one request");
+        require(mix != null && !mix.isEmpty(), "loadtest.mix must contain at least one operation");
+        require(clients >= 1 && clients <= MAX_CLIENTS,
+                "loadtest.clients must be between 1 and " + MAX_CLIENTS + ", got: " + clients);
+        require(rateLimitPerMinute > 0,
+                "loadtest.ratelimit.requests-per-minute must be positive, got: " + rateLimitPerMinute);
+        require(stubLatencyMillis >= 0, "loadtest.stub.latency-ms must be non-negative, got: " + stubLatencyMillis);
+        require(stubJitterMillis >= 0, "loadtest.stub.jitter-ms must be non-negative, got: " + stubJitterMillis);
+        require(stubErrorRate >= 0 && stubErrorRate <= 1,
+                "loadtest.stub.error-rate must be between 0 and 1, got: " + stubErrorRate);
+
+        this.ratePerSecond = ratePerSecond;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.mix = mix;
+        this.clients = clients;
+        this.rateLimitPerMinute = rateLimitPerMinute;
+        this.stubLatencyMillis = stubLatencyMillis;
+        this.stubJitterMillis = stubJitterMillis;
+        this.stubErrorRate = stubErrorRate;
+    }
+
+    public static LoadProfile fromSystemProperties() {
+        return LoadProfile.builder()
+                .ratePerSecond(Double.parseDouble(prop("rate", "200")))
+                .warmup(Duration.ofSeconds(Long.parseLong(prop("warmup-seconds", "5"))))
+                .duration(Duration.ofSeconds(Long.parseLong(prop("duration-seconds", "20"))))
+                .mix(parseMix(prop("mix", "fibonacci=30,prime=25,lcm=15,hcf=15,ai=15")))
+                .clients(Integer.parseInt(prop("clients", "1")))
+                .rateLimitPerMinute(Integer.parseInt(prop("ratelimit.requests-per-minute", "1000000")))
+                .stubLatencyMillis(Long.parseLong(prop("stub.latency-ms", "50")))
+                .stubJitterMillis(Long.parseLong(prop("stub.jitter-ms", "20")))
+                .stubErrorRate(Double.parseDouble(prop("stub.error-rate", "0.01")))
+                .build();
+    }
+
+    /**
+     * Compact, stable description of every knob that affects the numbers.
+     * Stored next to the baseline so results are only compared like-for-like.
+     */
+    public String fingerprint() {
+        StringBuilder mixSpec = new StringBuilder();
+        new EnumMap<>(mix).forEach((op, weight) -> {
+            if (mixSpec.length() > 0) mixSpec.append(',');
+            mixSpec.append(op.key()).append('=').append(weight);
+        });
+        return String.format(Locale.ROOT,
+                "rate=%s;warmup=%ds;duration=%ds;mix=%s;clients=%d;ratelimit=%d;stub=%d+%dms/%s",
+                ratePerSecond, warmup.toSeconds(), duration.toSeconds(), mixSpec, clients, rateLimitPerMinute,
+                stubLatencyMillis, stubJitterMillis, stubErrorRate);
+    }
+
+    // ─── Private helpers ───
+
+    private static void require(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    private static String prop(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+
+    static Map<Operation, Integer> parseMix(String spec) {
+        // EnumMap keeps the same order however the spec lists its entries, so equal mixes share a fingerprint
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid loadtest.mix entry: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("loadtest.mix weights must be non-negative, got: " + entry);
+            }
+            if (weight > 0) {
+                weights.put(Operation.fromKey(parts[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix must contain at least one positive weight");
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,128 @@
+package com.bfhl.api.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LoadProfileTest {
+
+    @Test
+    void parseMixKeepsOperationOrderAndDropsZeroWeights() {
+        Map<Operation, Integer> mix = LoadProfile.parseMix(" ai=15, fibonacci=30 ,prime=0,HCF=5");
+
+        assertEquals(List.of(Operation.FIBONACCI, Operation.HCF, Operation.AI), List.copyOf(mix.keySet()));
+        assertEquals(30, mix.get(Operation.FIBONACCI));
+        assertEquals(5, mix.get(Operation.HCF));
+        assertEquals(15, mix.get(Operation.AI));
+    }
+
+    @Test
+    void parseMixRejectsMalformedEntry() {
+        assertThrows(IllegalArgumentException.class, () -> LoadProfile.parseMix("fibonacci"));
+        assertThrows(IllegalArgumentException.class, () -> LoadProfile.parseMix("fibonacci=1=2"));
+        assertThrows(IllegalArgumentException.class, () -> LoadProfile.parseMix("fibonacci=abc"));
+    }
+
+    @Test
+    void parseMixRejectsUnknownOperation() {
+        assertThrows(IllegalArgumentException.class, () -> LoadProfile.parseMix("fibonacci=1,sqrt=2"));
+    }
+
+    @Test
+    void parseMixRejectsNegativeWeight() {
+        assertThrows(IllegalArgumentException.class, () -> LoadProfile.parseMix("fibonacci=1,lcm=-1"));
+    }
+
+    @Test
+    void parseMixRejectsAllZeroWeights() {
+        assertThrows(IllegalArgumentException.class, () -> LoadProfile.parseMix("fibonacci=0,ai=0"));
+    }
+
+    @Test
+    void rejectsNonPositiveRate() {
+        assertThrows(IllegalArgumentException.class, () -> valid().ratePerSecond(0).build());
+        assertThrows(IllegalArgumentException.class, () -> valid().ratePerSecond(-1).build());
+        assertThrows(IllegalArgumentException.class, () -> valid().ratePerSecond(Double.NaN).build());
+    }
+
+    @Test
+    void rejectsRateTooLowForAnyRequest() {
+        assertThrows(IllegalArgumentException.class, () -> valid().ratePerSecond(0.01).build());
+    }
+
+    @Test
+    void rejectsNonPositiveDuration() {
+        assertThrows(IllegalArgumentException.class, () -> valid().duration(Duration.ZERO).build());
+        assertThrows(IllegalArgumentException.class, () -> valid().duration(Duration.ofSeconds(-1)).build());
+    }
+
+    @Test
+    void rejectsNegativeWarmup() {
+        assertThrows(IllegalArgumentException.class, () -> valid().warmup(Duration.ofSeconds(-1)).build());
+    }
+
+    @Test
+    void rejectsClientsOutsideRange() {
+        assertThrows(IllegalArgumentException.class, () -> valid().clients(0).build());
+        assertThrows(IllegalArgumentException.class, () -> valid().clients(LoadProfile.MAX_CLIENTS + 1).build());
+        assertEquals(LoadProfile.MAX_CLIENTS, valid().clients(LoadProfile.MAX_CLIENTS).build().getClients());
+    }
+
+    @Test
+    void rejectsNonPositiveRateLimit() {
+        assertThrows(IllegalArgumentException.class, () -> valid().rateLimitPerMinute(0).build());
+    }
+
+    @Test
+    void rejectsErrorRateOutsideUnitInterval() {
+        assertThrows(IllegalArgumentException.class, () -> valid().stubErrorRate(-0.1).build());
+        assertThrows(IllegalArgumentException.class, () -> valid().stubErrorRate(1.1).build());
+        assertEquals(1.0, valid().stubErrorRate(1.0).build().getStubErrorRate());
+    }
+
+    @Test
+    void rejectsNegativeStubLatencyOrJitter() {
+        assertThrows(IllegalArgumentException.class, () -> valid().stubLatencyMillis(-1).build());
+        assertThrows(IllegalArgumentException.class, () -> valid().stubJitterMillis(-1).build());
+    }
+
+    @Test
+    void fingerprintIgnoresMixOrder() {
+        assertEquals(
+                profile("fibonacci=30,prime=25,ai=15").fingerprint(),
+                profile("ai=15,prime=25,fibonacci=30").fingerprint());
+    }
+
+    @Test
+    void fingerprintIncludesWarmup() {
+        LoadProfile warm = profile("fibonacci=1");
+        LoadProfile cold = warm.toBuilder().warmup(Duration.ZERO).build();
+
+        assertNotEquals(warm.fingerprint(), cold.fingerprint());
+    }
+
+    // ─── Private helpers ───
+
+    private static LoadProfile profile(String mix) {
+        return valid().mix(LoadProfile.parseMix(mix)).build();
+    }
+
+    private static LoadProfile.LoadProfileBuilder valid() {
+        return LoadProfile.builder()
+                .ratePerSecond(200)
+                .warmup(Duration.ofSeconds(5))
+                .duration(Duration.ofSeconds(20))
+                .mix(LoadProfile.parseMix("fibonacci=1"))
+                .clients(1)
+                .rateLimitPerMinute(1_000_000)
+                .stubLatencyMillis(50)
+                .stubJitterMillis(20)
+                .stubErrorRate(0.01);
+    }
+}
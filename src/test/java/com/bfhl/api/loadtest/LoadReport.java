@@ -0,0 +1,91 @@
+package com.bfhl.api.loadtest;
+
+import lombok.Builder;
+import lombok.Value;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Result of one measured load-test phase. Latencies are in microseconds,
+ * measured from each request's scheduled send time, and cover 200 responses only.
+ */
+@Value
+@Builder
+public class LoadReport {
+
+    Histogram latency;
+
+    Map<Operation, Histogram> latencyByOperation;
+
+    Duration elapsed;
+
+    long ok;
+
+    /** 429 responses from {@code RateLimitFilter}. */
+    long rateLimited;
+
+    /**
+     * 503 responses. {@code GlobalExceptionHandler} maps every RuntimeException
+     * to 503, so only those matching errors injected by the Gemini stub are expected.
+     */
+    long serviceUnavailable;
+
+    /** Any other status, timeout or transport error. */
+    long failures;
+
+    public long completed() {
+        return ok + rateLimited + serviceUnavailable + failures;
+    }
+
+    /**
+     * Failures plus any 503s beyond those the Gemini stub injected during this run.
+     */
+    public long unexpectedFailures(long injectedUpstreamErrors) {
+        return failures + Math.max(0, serviceUnavailable - injectedUpstreamErrors);
+    }
+
+    /**
+     * Successful (200) responses per second.
+     */
+    public double goodput() {
+        return ok / (elapsed.toNanos() / 1e9);
+    }
+
+    public long p50() {
+        return latency.getValueAtPercentile(50.0);
+    }
+
+    public long p99() {
+        return latency.getValueAtPercentile(99.0);
+    }
+
+    public long p999() {
+        return latency.getValueAtPercentile(99.9);
+    }
+
+    public String summary() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT,
+                "%n  completed=%d in %.1fs, goodput %.1f req/s (ok=%d, 429=%d, 503=%d, failed=%d)%n",
+                completed(), elapsed.toNanos() / 1e9, goodput(), ok, rateLimited, serviceUnavailable, failures));
+        sb.append(row("ok", latency));
+        latencyByOperation.forEach((op, histogram) -> sb.append(row(op.key(), histogram)));
+        return sb.toString();
+    }
+
+    // ─── Private helpers ───
+
+    private static String row(String label, Histogram histogram) {
+        return String.format(Locale.ROOT,
+                "  %-10s n=%-7d p50=%8.2fms  p99=%8.2fms  p999=%8.2fms  max=%8.2fms%n",
+                label,
+                histogram.getTotalCount(),
+                histogram.getValueAtPercentile(50.0) / 1000.0,
+                histogram.getValueAtPercentile(99.0) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0);
+    }
+}
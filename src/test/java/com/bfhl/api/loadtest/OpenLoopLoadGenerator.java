@@ -0,0 +1,136 @@
+package com.bfhl.api.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives POST /bfhl at a constant arrival rate, regardless of how fast the
+ * server answers. Latency is measured from each request's scheduled send
+ * time rather than its actual send time, so a stalled server shows up in the
+ * tail instead of silently lowering the offered load (coordinated omission).
+ */
+public class OpenLoopLoadGenerator {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final URI target;
+    private final LoadProfile profile;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+
+    public OpenLoopLoadGenerator(URI target, LoadProfile profile) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.target = target;
+        this.profile = profile;
+        this.operations = profile.getMix().keySet().toArray(new Operation[0]);
+        this.cumulativeWeights = new int[operations.length];
+        int sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += profile.getMix().get(operations[i]);
+            cumulativeWeights[i] = sum;
+        }
+    }
+
+    /**
+     * Offers load for the given duration, then waits for every in-flight
+     * request to complete before returning.
+     */
+    public LoadReport run(Duration duration) {
+        Histogram latency = new ConcurrentHistogram(3);
+        Map<Operation, Histogram> latencyByOperation = new EnumMap<>(Operation.class);
+        for (Operation op : operations) {
+            latencyByOperation.put(op, new ConcurrentHistogram(3));
+        }
+        LongAdder ok = new LongAdder();
+        LongAdder rateLimited = new LongAdder();
+        LongAdder serviceUnavailable = new LongAdder();
+        LongAdder failures = new LongAdder();
+
+        double intervalNanos = 1e9 / profile.getRatePerSecond();
+        long total = (long) (duration.toNanos() / intervalNanos);
+        List<CompletableFuture<Void>> inFlight = new ArrayList<>((int) Math.min(total, Integer.MAX_VALUE));
+
+        long start = System.nanoTime();
+        for (long i = 0; i < total; i++) {
+            long intended = start + (long) (i * intervalNanos);
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Operation op = pick();
+            inFlight.add(client.sendAsync(request(op, i), HttpResponse.BodyHandlers.discarding())
+                    .handle((response, error) -> {
+                        int status = error == null ? response.statusCode() : -1;
+                        if (status == 200) {
+                            // Only successes are timed — fast 429s/503s would otherwise flatter the percentiles
+                            long micros = Math.max(0, (System.nanoTime() - intended) / 1_000);
+                            latency.recordValue(micros);
+                            latencyByOperation.get(op).recordValue(micros);
+                            ok.increment();
+                        } else if (status == 429) {
+                            rateLimited.increment();
+                        } else if (status == 503) {
+                            serviceUnavailable.increment();
+                        } else {
+                            failures.increment();
+                        }
+                        return null;
+                    }));
+        }
+        CompletableFuture.allOf(inFlight.toArray(new CompletableFuture[0])).join();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        return LoadReport.builder()
+                .latency(latency)
+                .latencyByOperation(latencyByOperation)
+                .elapsed(elapsed)
+                .ok(ok.sum())
+                .rateLimited(rateLimited.sum())
+                .serviceUnavailable(serviceUnavailable.sum())
+                .failures(failures.sum())
+                .build();
+    }
+
+    // ─── Private helpers ───
+
+    private Operation pick() {
+        int roll = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private HttpRequest request(Operation op, long sequence) {
+        // Spread load over distinct client IPs so RateLimitFilter buckets can be exercised per client
+        long clientIndex = sequence % profile.getClients();
+        String clientIp = "10.0." + (clientIndex / 250) % 250 + "." + (clientIndex % 250 + 1);
+        return HttpRequest.newBuilder(target)
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("X-Forwarded-For", clientIp)
+                .POST(HttpRequest.BodyPublishers.ofString(op.payload()))
+                .build();
+    }
+}
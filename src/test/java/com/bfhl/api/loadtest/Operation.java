@@ -0,0 +1,38 @@
+package com.bfhl.api.loadtest;
+
+/**
+ * The five POST /bfhl operations, each with a fixed representative payload.
+ */
+public enum Operation {
+
+    FIBONACCI("fibonacci", "{\"fibonacci\": 30}"),
+    PRIME("prime", "{\"prime\": [2,4,7,9,11,13,17,19,23,29,31,37,41,43,47,53,59,61,67,71]}"),
+    LCM("lcm", "{\"lcm\": [12,18,24,30,36]}"),
+    HCF("hcf", "{\"hcf\": [24,36,60,84,96]}"),
+    AI("ai", "{\"AI\": \"What is the capital city of Maharashtra?\"}");
+
+    private final String key;
+    private final String payload;
+
+    Operation(String key, String payload) {
+        this.key = key;
+        this.payload = payload;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public String payload() {
+        return payload;
+    }
+
+    public static Operation fromKey(String key) {
+        for (Operation op : values()) {
+            if (op.key.equalsIgnoreCase(key)) {
+                return op;
+            }
+        }
+        throw new IllegalArgumentException("Unknown loadtest operation: " + key);
+    }
+}